@@ -13,5 +13,24 @@ fi
 
 cd "$(dirname "$0")"
 mkdir -p out
-javac -d out $(find src/main/java -name "*.java")
-exec java -cp out rcs.RcsApp
+APP_JAR=out/rcs-app.jar
+CDS_ARCHIVE=out/rcs-app.jsa
+
+# Only rebuild when sources changed, so the class-data archive stays valid between launches.
+# AppCDS cannot archive classes loaded from a directory, hence the jar.
+if [ ! -f "$APP_JAR" ] || [ -n "$(find src/main/java -name "*.java" -newer "$APP_JAR" | head -n 1)" ]; then
+  rm -rf out/classes
+  javac -encoding UTF-8 -d out/classes $(find src/main/java -name "*.java")
+  jar cfe "$APP_JAR" rcs.RcsApp -C out/classes .
+  rm -f "$CDS_ARCHIVE"
+fi
+
+# Training run: start the app, wait for the first result, and dump the loaded classes.
+if [ ! -f "$CDS_ARCHIVE" ]; then
+  java -XX:ArchiveClassesAtExit="$CDS_ARCHIVE" -cp "$APP_JAR" rcs.RcsApp --training-run || rm -f "$CDS_ARCHIVE"
+fi
+
+if [ -f "$CDS_ARCHIVE" ]; then
+  exec java -XX:SharedArchiveFile="$CDS_ARCHIVE" -cp "$APP_JAR" rcs.RcsApp
+fi
+exec java -cp "$APP_JAR" rcs.RcsApp
@@ -37,7 +37,10 @@ public record Attitude(double yawDeg, double pitchDeg, double rollDeg) {
     }
 
     public Vector3 geocentricToBody(Vector3 v) {
-        double[][] r = geocentricToBodyMatrix();
+        return rotate(geocentricToBodyMatrix(), v);
+    }
+
+    public static Vector3 rotate(double[][] r, Vector3 v) {
         double bx = r[0][0] * v.x() + r[0][1] * v.y() + r[0][2] * v.z();
         double by = r[1][0] * v.x() + r[1][1] * v.y() + r[1][2] * v.z();
         double bz = r[2][0] * v.x() + r[2][1] * v.y() + r[2][2] * v.z();
@@ -0,0 +1,105 @@
+package rcs;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+public class IncrementalRcsCalculator {
+    private final Stage<GeoPoint, Vector3> txEcef = new Stage<>(GeoPoint::toEcef);
+    private final Stage<GeoPoint, Vector3> rxEcef = new Stage<>(GeoPoint::toEcef);
+    private final Stage<GeoPoint, Vector3> tgtEcef = new Stage<>(GeoPoint::toEcef);
+    private final Stage<Attitude, double[][]> rotation = new Stage<>(Attitude::geocentricToBodyMatrix);
+    private final Stage<EcefKey, RcsCalculator.LineOfSight> lineOfSight;
+    private final Stage<BodyKey, RcsCalculator.BistaticGeometry> geometry;
+    private final Stage<SweepKey, RcsCalculator.SweepResult> sweep;
+    private final Stage<GridKey, double[][]> directionGrid;
+
+    private record EcefKey(Vector3 txEcef, Vector3 rxEcef, Vector3 tgtEcef) { }
+
+    private record BodyKey(RcsCalculator.LineOfSight los, Attitude attitude) { }
+
+    private record SweepKey(double startGHz, double stopGHz, int points,
+                            double incidenceAzDeg, double incidenceElDeg,
+                            double scatterAzDeg, double scatterElDeg) { }
+
+    private record GridKey(double freqGHz, double[] azDeg, double[] elDeg,
+                           double incidenceAzDeg, double incidenceElDeg,
+                           double scatterAzDeg, double scatterElDeg) {
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof GridKey other)) {
+                return false;
+            }
+            return Double.compare(freqGHz, other.freqGHz) == 0
+                    && Arrays.equals(azDeg, other.azDeg)
+                    && Arrays.equals(elDeg, other.elDeg)
+                    && Double.compare(incidenceAzDeg, other.incidenceAzDeg) == 0
+                    && Double.compare(incidenceElDeg, other.incidenceElDeg) == 0
+                    && Double.compare(scatterAzDeg, other.scatterAzDeg) == 0
+                    && Double.compare(scatterElDeg, other.scatterElDeg) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = Objects.hash(freqGHz, incidenceAzDeg, incidenceElDeg, scatterAzDeg, scatterElDeg);
+            h = 31 * h + Arrays.hashCode(azDeg);
+            return 31 * h + Arrays.hashCode(elDeg);
+        }
+    }
+
+    public IncrementalRcsCalculator(RcsCalculator calculator) {
+        this.lineOfSight = new Stage<>(k -> calculator.lineOfSight(k.txEcef(), k.rxEcef(), k.tgtEcef()));
+        this.geometry = new Stage<>(k -> calculator.bodyGeometry(k.los(), rotation.get(k.attitude())));
+        this.sweep = new Stage<>(k -> calculator.sweep(k.startGHz(), k.stopGHz(), k.points(),
+                k.incidenceAzDeg(), k.incidenceElDeg(), k.scatterAzDeg(), k.scatterElDeg()));
+        this.directionGrid = new Stage<>(k -> calculator.directionGrid(k.freqGHz(), k.azDeg(), k.elDeg(),
+                k.incidenceAzDeg(), k.incidenceElDeg(), k.scatterAzDeg(), k.scatterElDeg()));
+    }
+
+    public RcsCalculator.BistaticGeometry geometry(GeoPoint transmitter, GeoPoint receiver, GeoPoint target,
+                                                   Attitude attitude) {
+        RcsCalculator.LineOfSight los = lineOfSight.get(new EcefKey(txEcef.get(transmitter),
+                rxEcef.get(receiver), tgtEcef.get(target)));
+        return geometry.get(new BodyKey(los, attitude));
+    }
+
+    public RcsCalculator.SweepResult sweep(double startGHz, double stopGHz, int points,
+                                           double incidenceAzDeg, double incidenceElDeg,
+                                           double scatterAzDeg, double scatterElDeg) {
+        return sweep.get(new SweepKey(startGHz, stopGHz, points,
+                incidenceAzDeg, incidenceElDeg, scatterAzDeg, scatterElDeg));
+    }
+
+    public double[][] directionGrid(double freqGHz, double[] azDeg, double[] elDeg,
+                                    double incidenceAzDeg, double incidenceElDeg,
+                                    double scatterAzDeg, double scatterElDeg) {
+        double[][] grid = directionGrid.get(new GridKey(freqGHz, azDeg.clone(), elDeg.clone(),
+                incidenceAzDeg, incidenceElDeg, scatterAzDeg, scatterElDeg));
+        double[][] copy = new double[grid.length][];
+        for (int i = 0; i < grid.length; i++) {
+            copy[i] = grid[i].clone();
+        }
+        return copy;
+    }
+
+    private static final class Stage<K, V> {
+        private final Function<K, V> compute;
+        private K lastKey;
+        private V lastValue;
+
+        Stage(Function<K, V> compute) {
+            this.compute = compute;
+        }
+
+        V get(K key) {
+            if (lastValue == null || !Objects.equals(lastKey, key)) {
+                lastValue = compute.apply(key);
+                lastKey = key;
+            }
+            return lastValue;
+        }
+    }
+}
@@ -4,17 +4,32 @@ import javax.swing.BorderFactory;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.JButton;
+import javax.swing.JComboBox;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
 import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.GraphicsEnvironment;
 import java.awt.GridLayout;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.DoubleStream;
 
 public class RcsApp extends JFrame {
+    private static final double[] GRID_AZ_DEG = DoubleStream.iterate(-180.0, d -> d <= 180.0, d -> d + 5.0).toArray();
+    private static final double[] GRID_EL_DEG = DoubleStream.iterate(-60.0, d -> d <= 60.0, d -> d + 5.0).toArray();
+    private static final String TRAINING_RUN_ARG = "--training-run";
+
+    private record Scenario(double freqStart, double freqStop, int freqPoints,
+                            Attitude attitude, GeoPoint tx, GeoPoint rx, GeoPoint tgt) { }
+
     private final JTextField freqStartField = new JTextField("8.0");
     private final JTextField freqStopField = new JTextField("12.0");
     private final JTextField freqCountField = new JTextField("40");
@@ -35,15 +50,24 @@ public class RcsApp extends JFrame {
     private final JTextField tgtLonField = new JTextField("-95.0");
     private final JTextField tgtAltField = new JTextField("10000.0");
 
+    private final JComboBox<SyntheticRcsModel.Mode> modeBox = new JComboBox<>(SyntheticRcsModel.Mode.values());
+
     private final JLabel geometryLabel = new JLabel("入射/散射方向：-");
+    private final JLabel startupLabel = new JLabel("模型加载中…");
+    private final JButton computeButton = new JButton("计算并绘图");
 
     private final RcsLineChartPanel lineChart = new RcsLineChartPanel();
     private final DirectionHeatmapPanel heatmap = new DirectionHeatmapPanel();
 
-    private final RcsCalculator calculator = new RcsCalculator(new SyntheticRcsModel());
+    private final Instant launchTime;
+    private final boolean trainingRun;
+    private IncrementalRcsCalculator calculator;
+    private Duration firstFrameTime;
 
-    public RcsApp() {
+    public RcsApp(Instant launchTime, boolean trainingRun) {
         super("双站 RCS 插值（Java 演示）");
+        this.launchTime = launchTime;
+        this.trainingRun = trainingRun;
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLayout(new BorderLayout());
         setPreferredSize(new Dimension(1200, 700));
@@ -60,6 +84,76 @@ public class RcsApp extends JFrame {
         setLocationRelativeTo(null);
     }
 
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+        if (firstFrameTime == null) {
+            firstFrameTime = Duration.between(launchTime, Instant.now());
+            SwingUtilities.invokeLater(this::loadModelInBackground);
+        }
+    }
+
+    private static IncrementalRcsCalculator createCalculator(SyntheticRcsModel.Mode mode) {
+        return new IncrementalRcsCalculator(new RcsCalculator(new SyntheticRcsModel(mode)));
+    }
+
+    private SyntheticRcsModel.Mode selectedMode() {
+        return (SyntheticRcsModel.Mode) modeBox.getSelectedItem();
+    }
+
+    private void loadModelInBackground() {
+        Scenario scenario = readScenario();
+        SyntheticRcsModel.Mode mode = selectedMode();
+        new SwingWorker<IncrementalRcsCalculator, Void>() {
+            @Override
+            protected IncrementalRcsCalculator doInBackground() {
+                IncrementalRcsCalculator loaded = createCalculator(mode);
+                compute(loaded, scenario);
+                return loaded;
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    calculator = get();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    failStartup("模型加载被中断");
+                    return;
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause();
+                    String detail = cause.getMessage() != null ? cause.getMessage() : cause.toString();
+                    failStartup("模型加载失败：" + detail);
+                    return;
+                }
+                computeButton.setEnabled(true);
+                modeBox.setEnabled(true);
+                updateResults();
+                reportStartup(Duration.between(launchTime, Instant.now()));
+            }
+        }.execute();
+    }
+
+    private void failStartup(String message) {
+        startupLabel.setText(message);
+        System.err.println(message);
+        if (trainingRun) {
+            dispose();
+            System.exit(1);
+        }
+    }
+
+    private void reportStartup(Duration firstResultTime) {
+        String report = String.format("启动耗时：首帧 %d ms，首次结果 %d ms",
+                firstFrameTime.toMillis(), firstResultTime.toMillis());
+        startupLabel.setText(report);
+        System.out.println(report);
+        if (trainingRun) {
+            dispose();
+            System.exit(0);
+        }
+    }
+
     private JPanel buildInputPanel() {
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
@@ -70,6 +164,10 @@ public class RcsApp extends JFrame {
         panel.add(labeledField("终止 (GHz)", freqStopField));
         panel.add(labeledField("点数", freqCountField));
 
+        panel.add(Box.createVerticalStrut(10));
+        panel.add(sectionLabel("RCS 模型"));
+        panel.add(modeBox);
+
         panel.add(Box.createVerticalStrut(10));
         panel.add(sectionLabel("弹体姿态 (deg)"));
         panel.add(labeledField("航向 (Yaw)", yawField));
@@ -95,12 +193,18 @@ public class RcsApp extends JFrame {
         panel.add(labeledField("高度 (m)", tgtAltField));
 
         panel.add(Box.createVerticalStrut(10));
-        JButton compute = new JButton("计算并绘图");
-        compute.addActionListener(e -> updateResults());
-        panel.add(compute);
+        computeButton.setEnabled(false);
+        modeBox.setEnabled(false);
+        modeBox.addActionListener(e -> {
+            calculator = createCalculator(selectedMode());
+            updateResults();
+        });
+        computeButton.addActionListener(e -> updateResults());
+        panel.add(computeButton);
 
         panel.add(Box.createVerticalStrut(10));
         panel.add(geometryLabel);
+        panel.add(startupLabel);
 
         return panel;
     }
@@ -119,7 +223,7 @@ public class RcsApp extends JFrame {
         return p;
     }
 
-    private void updateResults() {
+    private Scenario readScenario() {
         double freqStart = parseDouble(freqStartField.getText(), 8.0);
         double freqStop = parseDouble(freqStopField.getText(), 12.0);
         int freqPoints = (int) parseDouble(freqCountField.getText(), 40.0);
@@ -137,20 +241,34 @@ public class RcsApp extends JFrame {
         GeoPoint tgt = new GeoPoint(parseDouble(tgtLatField.getText(), 28.0),
                 parseDouble(tgtLonField.getText(), -95.0),
                 parseDouble(tgtAltField.getText(), 10000.0));
+        return new Scenario(freqStart, freqStop, freqPoints, attitude, tx, rx, tgt);
+    }
 
-        RcsCalculator.BistaticGeometry geom = calculator.geometry(tx, rx, tgt, attitude);
+    private static void compute(IncrementalRcsCalculator calculator, Scenario s) {
+        RcsCalculator.BistaticGeometry geom = calculator.geometry(s.tx(), s.rx(), s.tgt(), s.attitude());
+        calculator.sweep(s.freqStart(), s.freqStop(), s.freqPoints(),
+                geom.incidenceAzDeg(), geom.incidenceElDeg(), geom.scatterAzDeg(), geom.scatterElDeg());
+        calculator.directionGrid((s.freqStart() + s.freqStop()) * 0.5, GRID_AZ_DEG, GRID_EL_DEG,
+                geom.incidenceAzDeg(), geom.incidenceElDeg(), geom.scatterAzDeg(), geom.scatterElDeg());
+    }
+
+    private void updateResults() {
+        if (calculator == null) {
+            return;
+        }
+        Scenario s = readScenario();
+
+        RcsCalculator.BistaticGeometry geom = calculator.geometry(s.tx(), s.rx(), s.tgt(), s.attitude());
         geometryLabel.setText(String.format("入射 az/el = %.1f/%.1f, 散射 az/el = %.1f/%.1f (deg)",
                 geom.incidenceAzDeg(), geom.incidenceElDeg(), geom.scatterAzDeg(), geom.scatterElDeg()));
 
-        RcsCalculator.SweepResult sweep = calculator.sweep(freqStart, freqStop, freqPoints,
+        RcsCalculator.SweepResult sweep = calculator.sweep(s.freqStart(), s.freqStop(), s.freqPoints(),
                 geom.incidenceAzDeg(), geom.incidenceElDeg(), geom.scatterAzDeg(), geom.scatterElDeg());
         lineChart.updateData(sweep.freqsGHz(), sweep.rcsValues());
 
-        double[] azDeg = DoubleStream.iterate(-180.0, d -> d <= 180.0, d -> d + 5.0).toArray();
-        double[] elDeg = DoubleStream.iterate(-60.0, d -> d <= 60.0, d -> d + 5.0).toArray();
-        double[][] grid = calculator.directionGrid((freqStart + freqStop) * 0.5, azDeg, elDeg,
+        double[][] grid = calculator.directionGrid((s.freqStart() + s.freqStop()) * 0.5, GRID_AZ_DEG, GRID_EL_DEG,
                 geom.incidenceAzDeg(), geom.incidenceElDeg(), geom.scatterAzDeg(), geom.scatterElDeg());
-        heatmap.updateData(azDeg, elDeg, grid, geom.incidenceAzDeg(), geom.incidenceElDeg(),
+        heatmap.updateData(GRID_AZ_DEG, GRID_EL_DEG, grid, geom.incidenceAzDeg(), geom.incidenceElDeg(),
                 geom.scatterAzDeg(), geom.scatterElDeg());
     }
 
@@ -163,8 +281,14 @@ public class RcsApp extends JFrame {
     }
 
     public static void main(String[] args) {
+        Instant launchTime = ProcessHandle.current().info().startInstant().orElseGet(Instant::now);
+        boolean trainingRun = Arrays.asList(args).contains(TRAINING_RUN_ARG);
+        if (trainingRun && GraphicsEnvironment.isHeadless()) {
+            System.err.println("训练运行需要图形界面，未生成类数据归档");
+            System.exit(1);
+        }
         SwingUtilities.invokeLater(() -> {
-            RcsApp app = new RcsApp();
+            RcsApp app = new RcsApp(launchTime, trainingRun);
             app.setVisible(true);
         });
     }
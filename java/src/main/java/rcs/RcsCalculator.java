@@ -10,6 +10,8 @@ public class RcsCalculator {
                                    double incidenceAzDeg, double incidenceElDeg,
                                    double scatterAzDeg, double scatterElDeg) { }
 
+    public record LineOfSight(Vector3 incidenceGeo, Vector3 scatterGeo) { }
+
     public record SweepResult(List<Double> freqsGHz, List<Double> rcsValues) { }
 
     public RcsCalculator(SyntheticRcsModel model) {
@@ -17,15 +19,19 @@ public class RcsCalculator {
     }
 
     public BistaticGeometry geometry(GeoPoint transmitter, GeoPoint receiver, GeoPoint target, Attitude attitude) {
-        Vector3 txEcef = transmitter.toEcef();
-        Vector3 rxEcef = receiver.toEcef();
-        Vector3 tgtEcef = target.toEcef();
+        LineOfSight los = lineOfSight(transmitter.toEcef(), receiver.toEcef(), target.toEcef());
+        return bodyGeometry(los, attitude.geocentricToBodyMatrix());
+    }
 
+    public LineOfSight lineOfSight(Vector3 txEcef, Vector3 rxEcef, Vector3 tgtEcef) {
         Vector3 incidenceGeo = txEcef.subtract(tgtEcef).normalize();
         Vector3 scatterGeo = rxEcef.subtract(tgtEcef).normalize();
+        return new LineOfSight(incidenceGeo, scatterGeo);
+    }
 
-        Vector3 incidenceBody = attitude.geocentricToBody(incidenceGeo);
-        Vector3 scatterBody = attitude.geocentricToBody(scatterGeo);
+    public BistaticGeometry bodyGeometry(LineOfSight los, double[][] geocentricToBody) {
+        Vector3 incidenceBody = Attitude.rotate(geocentricToBody, los.incidenceGeo());
+        Vector3 scatterBody = Attitude.rotate(geocentricToBody, los.scatterGeo());
 
         double incidenceAz = Math.toDegrees(Math.atan2(incidenceBody.y(), incidenceBody.x()));
         double incidenceEl = Math.toDegrees(Math.asin(incidenceBody.z() / incidenceBody.norm()));
@@ -44,12 +50,16 @@ public class RcsCalculator {
             points = 2;
         }
         double step = (stopGHz - startGHz) / (points - 1);
+        double[] freqGrid = new double[points];
+        for (int i = 0; i < points; i++) {
+            freqGrid[i] = startGHz + i * step;
+        }
+        double[] rcs = model.sweep(freqGrid, incidenceAzDeg, incidenceElDeg, scatterAzDeg, scatterElDeg);
         for (int i = 0; i < points; i++) {
-            double freq = startGHz + i * step;
-            freqs.add(freq);
-            rcsValues.add(model.bistaticRcs(freq, incidenceAzDeg, incidenceElDeg, scatterAzDeg, scatterElDeg));
+            freqs.add(freqGrid[i]);
+            rcsValues.add(rcs[i]);
         }
-        return new SweepResult(freqs, rcsValues);
+        return new SweepResult(List.copyOf(freqs), List.copyOf(rcsValues));
     }
 
     public double[][] directionGrid(double freqGHz, double[] azDeg, double[] elDeg,
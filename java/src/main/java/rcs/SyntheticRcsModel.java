@@ -1,8 +1,77 @@
 package rcs;
 
+import java.util.Arrays;
+
 public class SyntheticRcsModel {
+    public enum Mode {
+        ANGULAR_LOBES("角度波瓣"),
+        MONOSTATIC_EQUIVALENT("单站等效（双站角增益）");
+
+        private final String label;
+
+        Mode(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private static final double SPEED_OF_LIGHT = 2.99792458e8;
+    private static final double BODY_DIAMETER_M = 0.8;
+    private static final double NOSE_RADIUS_M = 0.25;
+    private static final double BODY_AREA = Math.PI * Math.pow(BODY_DIAMETER_M / 2.0, 2);
+    private static final double SLENDER_COEF = 4.0 * Math.PI * BODY_AREA * BODY_AREA;
+    private static final double NOSE_COEF = NOSE_RADIUS_M * NOSE_RADIUS_M;
+    private static final double NOSE_WIDTH_DEG = 25.0;
+    private static final double MIN_MONOSTATIC = 1e-6;
+    private static final double MIN_BISTATIC_GAIN = 1e-3;
+
+    private record AxisTable(double[] degrees, double[] cos, double[] sin, double[] cosHalf, double[] sinHalf) {
+        static AxisTable of(double[] degrees) {
+            int n = degrees.length;
+            double[] cos = new double[n];
+            double[] sin = new double[n];
+            double[] cosHalf = new double[n];
+            double[] sinHalf = new double[n];
+            for (int i = 0; i < n; i++) {
+                double rad = Math.toRadians(degrees[i]);
+                cos[i] = Math.cos(rad);
+                sin[i] = Math.sin(rad);
+                cosHalf[i] = Math.cos(rad * 0.5);
+                sinHalf[i] = Math.sin(rad * 0.5);
+            }
+            return new AxisTable(degrees.clone(), cos, sin, cosHalf, sinHalf);
+        }
+
+        boolean matches(double[] other) {
+            return Arrays.equals(degrees, other);
+        }
+    }
+
+    private final Mode mode;
+    private AxisTable azimuthTable = AxisTable.of(new double[0]);
+    private AxisTable elevationTable = AxisTable.of(new double[0]);
+
+    public SyntheticRcsModel() {
+        this(Mode.ANGULAR_LOBES);
+    }
+
+    public SyntheticRcsModel(Mode mode) {
+        this.mode = mode;
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
     public double bistaticRcs(double freqGHz, double incidenceAzDeg, double incidenceElDeg,
                               double scatterAzDeg, double scatterElDeg) {
+        if (mode == Mode.MONOSTATIC_EQUIVALENT) {
+            return sweep(new double[] {freqGHz}, incidenceAzDeg, incidenceElDeg, scatterAzDeg, scatterElDeg)[0];
+        }
         double base = 10.0 + 5.0 * Math.sin(Math.toRadians(freqGHz * 12.0));
         double incidenceTerm = angularGain(incidenceAzDeg, incidenceElDeg, 35.0, 12.0);
         double scatterTerm = angularGain(scatterAzDeg, scatterElDeg, -20.0, 10.0);
@@ -11,9 +80,49 @@ public class SyntheticRcsModel {
         return base + incidenceTerm + scatterTerm + crossCoupling;
     }
 
+    public double[] sweep(double[] freqsGHz, double incidenceAzDeg, double incidenceElDeg,
+                          double scatterAzDeg, double scatterElDeg) {
+        if (mode != Mode.MONOSTATIC_EQUIVALENT) {
+            double[] rcs = new double[freqsGHz.length];
+            for (int i = 0; i < freqsGHz.length; i++) {
+                rcs[i] = bistaticRcs(freqsGHz[i], incidenceAzDeg, incidenceElDeg, scatterAzDeg, scatterElDeg);
+            }
+            return rcs;
+        }
+        return monostaticEquivalentSweep(freqsGHz, propagationAzDeg(incidenceAzDeg), propagationElDeg(incidenceElDeg),
+                scatterAzDeg, scatterElDeg);
+    }
+
+    private double[] monostaticEquivalentSweep(double[] freqsGHz, double propagationAzDeg, double propagationElDeg,
+                                               double scatterAzDeg, double scatterElDeg) {
+        double[] rcs = new double[freqsGHz.length];
+        double incAz = Math.toRadians(propagationAzDeg);
+        double incEl = Math.toRadians(propagationElDeg);
+        double scaAz = Math.toRadians(scatterAzDeg);
+        double scaEl = Math.toRadians(scatterElDeg);
+        double cosIncEl = Math.cos(incEl);
+        double cosScaEl = Math.cos(scaEl);
+        double cosBistatic = cosIncEl * cosScaEl * Math.cos(incAz - scaAz) + Math.sin(incEl) * Math.sin(scaEl);
+        double gain = bistaticGain(cosBistatic, cosIncEl * cosIncEl, cosScaEl * cosScaEl);
+
+        double effEl = (propagationElDeg + scatterElDeg) * 0.5;
+        double cosEffAz = Math.cos((incAz + scaAz) * 0.5);
+        double cosEffEl = Math.cos((incEl + scaEl) * 0.5);
+        double shape = monostaticShape(cosEffAz * cosEffAz, cosEffEl * cosEffEl, noseSpot(effEl));
+        for (int i = 0; i < freqsGHz.length; i++) {
+            double sigma = Math.max(inverseWavelengthSq(freqsGHz[i]) * shape, MIN_MONOSTATIC) * gain;
+            rcs[i] = 10.0 * Math.log10(sigma);
+        }
+        return rcs;
+    }
+
     public double[][] directionGrid(double freqGHz, double[] azimuthsDeg, double[] elevationsDeg,
                                      double refIncidenceAz, double refIncidenceEl,
                                      double refScatterAz, double refScatterEl) {
+        if (mode == Mode.MONOSTATIC_EQUIVALENT) {
+            return monostaticEquivalentGrid(freqGHz, azimuthsDeg, elevationsDeg,
+                    propagationAzDeg(refIncidenceAz), propagationElDeg(refIncidenceEl));
+        }
         double[][] grid = new double[elevationsDeg.length][azimuthsDeg.length];
         for (int i = 0; i < elevationsDeg.length; i++) {
             for (int j = 0; j < azimuthsDeg.length; j++) {
@@ -24,6 +133,106 @@ public class SyntheticRcsModel {
         return grid;
     }
 
+    private double[][] monostaticEquivalentGrid(double freqGHz, double[] azimuthsDeg, double[] elevationsDeg,
+                                                double propagationAzDeg, double propagationElDeg) {
+        AxisTable az = azimuthTable(azimuthsDeg);
+        AxisTable el = elevationTable(elevationsDeg);
+        int rows = elevationsDeg.length;
+        int cols = azimuthsDeg.length;
+
+        double incAz = Math.toRadians(propagationAzDeg);
+        double incEl = Math.toRadians(propagationElDeg);
+        double cosIncEl = Math.cos(incEl);
+        double sinIncEl = Math.sin(incEl);
+        double incX = cosIncEl * Math.cos(incAz);
+        double incY = cosIncEl * Math.sin(incAz);
+        double incElTerm = cosIncEl * cosIncEl;
+        double cosHalfIncAz = Math.cos(incAz * 0.5);
+        double sinHalfIncAz = Math.sin(incAz * 0.5);
+        double cosHalfIncEl = Math.cos(incEl * 0.5);
+        double sinHalfIncEl = Math.sin(incEl * 0.5);
+
+        double[] horizontalDot = new double[cols];
+        double[] rollLobe = new double[cols];
+        double[] azGradient = new double[cols];
+        for (int j = 0; j < cols; j++) {
+            horizontalDot[j] = incX * az.cos()[j] + incY * az.sin()[j];
+            double cosEffAz = cosHalfIncAz * az.cosHalf()[j] - sinHalfIncAz * az.sinHalf()[j];
+            double cosSq = cosEffAz * cosEffAz;
+            rollLobe[j] = 0.6 + 0.4 * cosSq;
+            azGradient[j] = 1.0 + 0.1 * (2.0 * cosSq - 1.0);
+        }
+
+        double invLambdaSq = inverseWavelengthSq(freqGHz);
+        double[][] grid = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            double cosScaEl = el.cos()[i];
+            double verticalDot = sinIncEl * el.sin()[i];
+            double elTerm = (incElTerm + cosScaEl * cosScaEl) * 0.5;
+            double cosEffEl = cosHalfIncEl * el.cosHalf()[i] - sinHalfIncEl * el.sinHalf()[i];
+            double slender = invLambdaSq * SLENDER_COEF * cosEffEl * cosEffEl;
+            double nose = invLambdaSq * noseSpot((propagationElDeg + elevationsDeg[i]) * 0.5);
+            double[] row = grid[i];
+            for (int j = 0; j < cols; j++) {
+                double cosBistatic = cosScaEl * horizontalDot[j] + verticalDot;
+                double gain = Math.max((1.0 + cosBistatic) * 0.5 * elTerm, MIN_BISTATIC_GAIN);
+                double monostatic = Math.max((slender * rollLobe[j] + nose) * azGradient[j], MIN_MONOSTATIC);
+                row[j] = 10.0 * Math.log10(monostatic * gain);
+            }
+        }
+        return grid;
+    }
+
+    // rcs_app.m describes incidence by its propagation direction (transmitter -> target), while
+    // RcsCalculator.lineOfSight points from the target back to the transmitter.
+    private double propagationAzDeg(double incidenceAzDeg) {
+        return incidenceAzDeg + 180.0;
+    }
+
+    private double propagationElDeg(double incidenceElDeg) {
+        return -incidenceElDeg;
+    }
+
+    private AxisTable azimuthTable(double[] azimuthsDeg) {
+        AxisTable table = azimuthTable;
+        if (!table.matches(azimuthsDeg)) {
+            table = AxisTable.of(azimuthsDeg);
+            azimuthTable = table;
+        }
+        return table;
+    }
+
+    private AxisTable elevationTable(double[] elevationsDeg) {
+        AxisTable table = elevationTable;
+        if (!table.matches(elevationsDeg)) {
+            table = AxisTable.of(elevationsDeg);
+            elevationTable = table;
+        }
+        return table;
+    }
+
+    private double monostaticShape(double cosEffAzSq, double cosEffElSq, double noseSpot) {
+        double rollLobe = 0.6 + 0.4 * cosEffAzSq;
+        double azGradient = 1.0 + 0.1 * (2.0 * cosEffAzSq - 1.0);
+        return (SLENDER_COEF * cosEffElSq * rollLobe + noseSpot) * azGradient;
+    }
+
+    private double noseSpot(double effElDeg) {
+        double t = effElDeg / NOSE_WIDTH_DEG;
+        return NOSE_COEF * Math.exp(-t * t);
+    }
+
+    private double bistaticGain(double cosBistatic, double incElTerm, double scaElTerm) {
+        double coherence = (1.0 + cosBistatic) * 0.5;
+        double elevationTerm = (incElTerm + scaElTerm) * 0.5;
+        return Math.max(coherence * elevationTerm, MIN_BISTATIC_GAIN);
+    }
+
+    private double inverseWavelengthSq(double freqGHz) {
+        double invLambda = freqGHz * 1e9 / SPEED_OF_LIGHT;
+        return invLambda * invLambda;
+    }
+
     private double angularGain(double azDeg, double elDeg, double preferredAzDeg, double widthDeg) {
         double azDelta = normalizeAngleDeg(azDeg - preferredAzDeg);
         double elDelta = normalizeAngleDeg(elDeg);